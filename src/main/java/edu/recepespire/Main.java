@@ -1,12 +1,47 @@
 package edu.recepespire;
 
 
+import edu.recepespire.service.SnapshotService;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 @SpringBootApplication
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && "snapshot".equals(args[0])) {
+            runSnapshot(args);
+            return;
+        }
         SpringApplication.run(Main.class, args);
     }
-}
\ No newline at end of file
+
+    // Usage: snapshot export|import <file> [Spring Boot arguments, e.g. --spring.datasource.url=...]
+    private static void runSnapshot(String[] args) throws IOException {
+        if (args.length < 3 || !("export".equals(args[1]) || "import".equals(args[1]))) {
+            System.err.println("Usage: snapshot export|import <file> [--property=value ...]");
+            System.exit(2);
+        }
+
+        SpringApplication application = new SpringApplication(Main.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(Arrays.copyOfRange(args, 3, args.length))) {
+            SnapshotService snapshotService = context.getBean(SnapshotService.class);
+            Path file = Path.of(args[2]);
+            if ("export".equals(args[1])) {
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    System.out.println("Exported " + snapshotService.exportSnapshot(out) + " rows to " + file);
+                }
+            } else {
+                System.out.println("Imported " + snapshotService.importSnapshot(file) + " rows from " + file);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package edu.recepespire.config;
+
+import edu.recepespire.entity.CompressedTextConverter;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies instructions from the legacy recipe.instructions column into
+ * recipe_instructions, encoded through {@link CompressedTextConverter}.
+ * Runs while the context starts, before the web server takes requests.
+ * The copy only fills rows that are missing, so it is safe on every start.
+ * The legacy column is left in place unless
+ * recipesphere.migration.drop-legacy-instructions=true.
+ */
+@Component
+public class RecipeInstructionsMigration implements SmartInitializingSingleton {
+    private static final int PAGE_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean dropLegacyColumn;
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    public RecipeInstructionsMigration(
+            JdbcTemplate jdbcTemplate,
+            @Value("${recipesphere.migration.drop-legacy-instructions:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!legacyColumnExists()) {
+            return;
+        }
+
+        long lastId = 0;
+        List<Map<String, Object>> page;
+        do {
+            page = jdbcTemplate.queryForList(
+                    "SELECT r.id, r.instructions FROM recipe r " +
+                            "LEFT JOIN recipe_instructions ri ON ri.recipe_id = r.id " +
+                            "WHERE ri.recipe_id IS NULL AND r.instructions IS NOT NULL AND r.id > ? " +
+                            "ORDER BY r.id LIMIT " + PAGE_SIZE, lastId);
+            List<Object[]> rows = page.stream()
+                    .map(row -> new Object[]{row.get("id"),
+                            converter.convertToDatabaseColumn((String) row.get("instructions"))})
+                    .toList();
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO recipe_instructions (recipe_id, content) VALUES (?, ?)", rows);
+                lastId = ((Number) page.get(page.size() - 1).get("id")).longValue();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        if (dropLegacyColumn) {
+            jdbcTemplate.execute("ALTER TABLE recipe DROP COLUMN instructions");
+        }
+    }
+
+    private boolean legacyColumnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'recipe' AND column_name = 'instructions'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
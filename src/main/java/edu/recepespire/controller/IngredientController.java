@@ -5,8 +5,10 @@ import edu.recepespire.entity.Ingredient;
 import edu.recepespire.service.IngredientService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +19,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 
 public class IngredientController {
+    static final int MAX_BATCH_IDS = 100;
+
     private final IngredientService ingredientService;
 
     // For single ingredient creation
@@ -41,6 +45,19 @@ public class IngredientController {
         return ResponseEntity.ok(ingredientService.getAllIngredients());
     }
 
+    // Batch lookup, e.g. ?ids=1,2,3; at most MAX_BATCH_IDS ids per request and no empty entries
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Ingredient>> getIngredientsByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_IDS + " ids can be requested at once");
+        }
+        if (ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not contain empty values");
+        }
+        return ResponseEntity.ok(ingredientService.getIngredientsByIds(ids));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Ingredient> getIngredientById(@PathVariable Long id) {
         return ResponseEntity.ok(ingredientService.getIngredientById(id));
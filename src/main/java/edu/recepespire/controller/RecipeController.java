@@ -5,8 +5,10 @@ import edu.recepespire.entity.Recipe;
 import edu.recepespire.service.RecipeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -14,6 +16,8 @@ import java.util.List;
 @RequestMapping("/api/recipes")
 @RequiredArgsConstructor
 public class RecipeController {
+    static final int MAX_BATCH_IDS = 100;
+
     private final RecipeService recipeService;
 
     @PostMapping
@@ -26,6 +30,19 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getAllRecipes());
     }
 
+    // Batch lookup, e.g. ?ids=1,2,3; at most MAX_BATCH_IDS ids per request and no empty entries
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Recipe>> getRecipesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_IDS + " ids can be requested at once");
+        }
+        if (ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not contain empty values");
+        }
+        return ResponseEntity.ok(recipeService.getRecipesByIds(ids));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Recipe> getRecipeById(@PathVariable Long id) {
         return ResponseEntity.ok(recipeService.getRecipeById(id));
@@ -0,0 +1,61 @@
+package edu.recepespire.controller;
+
+import edu.recepespire.service.SnapshotService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+// Dumps and replaces the whole database, so it is only registered when
+// recipesphere.admin.snapshot.enabled=true; the CLI mode of Main is always available
+@RestController
+@RequestMapping("/api/admin/snapshot")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "recipesphere.admin.snapshot.enabled", havingValue = "true")
+public class SnapshotController {
+    private final SnapshotService snapshotService;
+
+    // Written on the request thread, so a long export is not cut off by the async request timeout
+    @GetMapping
+    public void exportSnapshot(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recipesphere.snapshot\"");
+        snapshotService.exportSnapshot(response.getOutputStream());
+    }
+
+    // Raw request body rather than multipart, so the multipart upload size limits do not apply
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Long>> importSnapshot(InputStream body) throws IOException {
+        // Import memory-maps its input, so spool the upload to disk first
+        Path snapshot = Files.createTempFile("recipesphere-", ".snapshot");
+        try {
+            Files.copy(body, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            return ResponseEntity.ok(Map.of("rowsImported", snapshotService.importSnapshot(snapshot)));
+        } finally {
+            deleteTempFile(snapshot);
+        }
+    }
+
+    // The import may already be committed here, so a failed cleanup must not turn it into an error.
+    // Deleting can fail while the file is still memory-mapped (e.g. on Windows).
+    private void deleteTempFile(Path snapshot) {
+        try {
+            Files.deleteIfExists(snapshot);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary snapshot {}, retrying on exit", snapshot, e);
+            snapshot.toFile().deleteOnExit();
+        }
+    }
+}
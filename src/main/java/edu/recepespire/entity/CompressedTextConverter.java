@@ -0,0 +1,69 @@
+package edu.recepespire.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores text as UTF-8 bytes, gzip-compressed once it passes
+ * {@link #COMPRESSION_THRESHOLD} bytes. The first byte records which
+ * encoding was used so both kinds of rows can be read back.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+    static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final byte PLAIN = 0;
+    private static final byte GZIP = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < COMPRESSION_THRESHOLD) {
+            return withHeader(PLAIN, raw);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        out.write(GZIP);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress text", e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return null;
+        }
+        if (stored[0] == PLAIN) {
+            return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+        }
+
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(stored, 1, stored.length - 1))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress text", e);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] stored = new byte[body.length + 1];
+        stored[0] = header;
+        System.arraycopy(body, 0, stored, 1, body.length);
+        return stored;
+    }
+}
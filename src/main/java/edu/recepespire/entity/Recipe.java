@@ -1,5 +1,6 @@
 package edu.recepespire.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import lombok.*;
 import java.util.*;
@@ -18,7 +19,12 @@ public class Recipe {
     private String title;
 
     private String description;
+
+    // Stored in RecipeInstructions; only filled in by the detail lookup
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String instructions;
+
     private String category;
     private Integer prepTime; // in minutes
     private Integer cookTime; // in minutes
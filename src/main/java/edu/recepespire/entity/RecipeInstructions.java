@@ -0,0 +1,28 @@
+package edu.recepespire.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Instructions live in their own table so list, category and search
+ * queries over {@link Recipe} never read them.
+ */
+@Entity
+@Table(name = "recipe_instructions")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeInstructions {
+    @Id
+    private Long recipeId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "recipe_id")
+    private Recipe recipe;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "LONGBLOB")
+    private String content;
+}
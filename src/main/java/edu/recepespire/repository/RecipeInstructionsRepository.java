@@ -0,0 +1,19 @@
+package edu.recepespire.repository;
+
+import edu.recepespire.entity.RecipeInstructions;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RecipeInstructionsRepository extends JpaRepository<RecipeInstructions, Long> {
+    // Bulk statements, so writes never load and decompress the stored text
+
+    @Modifying
+    @Query("UPDATE RecipeInstructions i SET i.content = :content WHERE i.recipeId = :recipeId")
+    int updateContent(@Param("recipeId") Long recipeId, @Param("content") String content);
+
+    @Modifying
+    @Query("DELETE FROM RecipeInstructions i WHERE i.recipeId = :recipeId")
+    int deleteByRecipeId(@Param("recipeId") Long recipeId);
+}
@@ -6,15 +6,23 @@ import edu.recepespire.entity.Ingredient;
 import edu.recepespire.exception.ResourceNotFoundException;
 import edu.recepespire.repository.IngredientRepository;
 import edu.recepespire.service.IngredientService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class IngredientServiceImpl implements IngredientService {
     private final IngredientRepository ingredientRepository;
+    private final EntityManager entityManager;
+    private final SingleFlight<Long, Ingredient> ingredientLoads = new SingleFlight<>();
 
     @Override
     public Ingredient createIngredient(IngredientDTO dto) {
@@ -33,13 +41,33 @@ public class IngredientServiceImpl implements IngredientService {
 
     @Override
     public Ingredient getIngredientById(Long id) {
-        return ingredientRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Ingredient not found with id: " + id));
+        // Concurrent lookups of the same ingredient share one query
+        return ingredientLoads.load(id, key -> {
+            Ingredient ingredient = ingredientRepository.findById(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ingredient not found with id: " + key));
+            // Shared with other request threads, so detach it from this one's persistence context
+            entityManager.detach(ingredient);
+            return ingredient;
+        });
+    }
+
+    @Override
+    public List<Ingredient> getIngredientsByIds(List<Long> ids) {
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, Ingredient> found = ingredientRepository.findAllById(uniqueIds).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+        // Keep the order the ids were requested in, skipping unknown ids
+        return uniqueIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
     public Ingredient updateIngredient(Long id, IngredientDTO dto) {
-        Ingredient ingredient = getIngredientById(id);
+        // getIngredientById hands the same instance to concurrent readers; load a private one to modify
+        Ingredient ingredient = ingredientRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ingredient not found with id: " + id));
         ingredient.setName(dto.getName());
         ingredient.setCategory(dto.getCategory());
         ingredient.setUnit(dto.getUnit());
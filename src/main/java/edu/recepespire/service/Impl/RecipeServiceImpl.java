@@ -6,15 +6,23 @@ import edu.recepespire.dto.RecipeIngredientDTO;
 import edu.recepespire.entity.Ingredient;
 import edu.recepespire.entity.Recipe;
 import edu.recepespire.entity.RecipeIngredient;
+import edu.recepespire.entity.RecipeInstructions;
 import edu.recepespire.exception.ResourceNotFoundException;
 import edu.recepespire.repository.IngredientRepository;
+import edu.recepespire.repository.RecipeInstructionsRepository;
 import edu.recepespire.repository.RecipeRepository;
 import edu.recepespire.service.RecipeService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -22,13 +30,21 @@ import java.util.List;
 public class RecipeServiceImpl implements RecipeService {
     private final RecipeRepository recipeRepository;
     private final IngredientRepository ingredientRepository;
+    private final RecipeInstructionsRepository recipeInstructionsRepository;
+    private final EntityManager entityManager;
+    private final SingleFlight<Long, Recipe> recipeLoads = new SingleFlight<>();
 
     @Override
     @Transactional
     public Recipe createRecipe(RecipeDTO recipeDTO) {
         Recipe recipe = new Recipe();
         mapRecipeDTOToEntity(recipeDTO, recipe);
-        return recipeRepository.save(recipe);
+        Recipe saved = recipeRepository.save(recipe);
+        recipeInstructionsRepository.save(RecipeInstructions.builder()
+                .recipe(saved)
+                .content(saved.getInstructions())
+                .build());
+        return saved;
     }
 
     @Override
@@ -37,7 +53,19 @@ public class RecipeServiceImpl implements RecipeService {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with id: " + id));
         mapRecipeDTOToEntity(recipeDTO, recipe);
-        return recipeRepository.save(recipe);
+        Recipe saved = recipeRepository.save(recipe);
+        updateInstructions(saved);
+        return saved;
+    }
+
+    private void updateInstructions(Recipe recipe) {
+        // Overwrite in place; only recipes that never had instructions get a new row
+        if (recipeInstructionsRepository.updateContent(recipe.getId(), recipe.getInstructions()) == 0) {
+            recipeInstructionsRepository.save(RecipeInstructions.builder()
+                    .recipe(recipe)
+                    .content(recipe.getInstructions())
+                    .build());
+        }
     }
 
     private void mapRecipeDTOToEntity(RecipeDTO dto, Recipe entity) {
@@ -70,13 +98,38 @@ public class RecipeServiceImpl implements RecipeService {
     public void deleteRecipe(Long id) {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with id: " + id));
+        recipeInstructionsRepository.deleteByRecipeId(id);
         recipeRepository.delete(recipe);
     }
 
     @Override
     public Recipe getRecipeById(Long id) {
-        return recipeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with id: " + id));
+        // Concurrent lookups of the same recipe share one query
+        return recipeLoads.load(id, key -> {
+            Recipe recipe = recipeRepository.findWithIngredientsById(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recipe not found with id: " + key));
+            // Instructions are only read here, never by list or search queries
+            recipe.setInstructions(recipeInstructionsRepository.findById(key)
+                    .map(RecipeInstructions::getContent)
+                    .orElse(null));
+            // The result is handed to other request threads, so it must not stay
+            // attached to this thread's persistence context
+            entityManager.detach(recipe);
+            recipe.getIngredients().forEach(recipeIngredient -> entityManager.detach(recipeIngredient.getIngredient()));
+            return recipe;
+        });
+    }
+
+    @Override
+    public List<Recipe> getRecipesByIds(List<Long> ids) {
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, Recipe> found = recipeRepository.findAllWithIngredientsByIdIn(uniqueIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        // Keep the order the ids were requested in, skipping unknown ids
+        return uniqueIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
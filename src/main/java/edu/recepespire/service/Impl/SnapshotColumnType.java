@@ -0,0 +1,18 @@
+package edu.recepespire.service.Impl;
+
+import java.sql.Types;
+
+enum SnapshotColumnType {
+    LONG(Types.BIGINT),
+    INT(Types.INTEGER),
+    DOUBLE(Types.DOUBLE),
+    TIMESTAMP(Types.TIMESTAMP),
+    STRING(Types.VARCHAR),
+    BYTES(Types.LONGVARBINARY);
+
+    final int sqlType;
+
+    SnapshotColumnType(int sqlType) {
+        this.sqlType = sqlType;
+    }
+}
@@ -0,0 +1,59 @@
+package edu.recepespire.service.Impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Reads values written by {@link SnapshotWriter} straight out of a
+ * (usually memory-mapped) buffer.
+ */
+class SnapshotReader {
+    private final ByteBuffer buffer;
+
+    SnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    int readShort() {
+        return buffer.getShort();
+    }
+
+    int readByte() {
+        return buffer.get();
+    }
+
+    Object readValue(SnapshotColumnType type) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return switch (type) {
+            case LONG -> buffer.getLong();
+            case INT -> buffer.getInt();
+            case DOUBLE -> buffer.getDouble();
+            case TIMESTAMP -> LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            case STRING -> new String(readBytes(), StandardCharsets.UTF_8);
+            case BYTES -> readBytes();
+        };
+    }
+
+    String readName() {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes() {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Snapshot is truncated or corrupt: value length " + length
+                    + " with " + buffer.remaining() + " bytes left");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,241 @@
+package edu.recepespire.service.Impl;
+
+import edu.recepespire.service.SnapshotService;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static edu.recepespire.service.Impl.SnapshotColumnType.*;
+
+/**
+ * Binary snapshot of the ingredient, recipe and inventory tables.
+ *
+ * Layout: magic, format version, table count, then one section per table
+ * holding its name, column count and rows. Each row starts with a marker
+ * byte and the section ends with an end marker, so export can stream rows
+ * without knowing counts up front. Tables are written parent-first so
+ * import can insert them in file order with their original ids.
+ */
+@Service
+public class SnapshotServiceImpl implements SnapshotService {
+    static final int MAGIC = 0x52534E50; // "RSNP"
+    // 2: timestamps stored as UTC wall-clock seconds and nanos instead of epoch millis
+    static final int VERSION = 2;
+
+    static final int ROW = 1;
+    static final int END_OF_TABLE = 0;
+    private static final int BATCH_SIZE = 1000;
+
+    static final List<SnapshotTable> TABLES = List.of(
+            new SnapshotTable("ingredient", List.of(
+                    new SnapshotColumn("id", LONG),
+                    new SnapshotColumn("name", STRING),
+                    new SnapshotColumn("category", STRING),
+                    new SnapshotColumn("unit", STRING),
+                    new SnapshotColumn("calories_per_unit", DOUBLE))),
+            new SnapshotTable("recipe", List.of(
+                    new SnapshotColumn("id", LONG),
+                    new SnapshotColumn("title", STRING),
+                    new SnapshotColumn("description", STRING),
+                    new SnapshotColumn("category", STRING),
+                    new SnapshotColumn("prep_time", INT),
+                    new SnapshotColumn("cook_time", INT),
+                    new SnapshotColumn("servings", INT),
+                    new SnapshotColumn("created_at", TIMESTAMP),
+                    new SnapshotColumn("updated_at", TIMESTAMP))),
+            // Copied as stored, so compressed instructions stay compressed
+            new SnapshotTable("recipe_instructions", List.of(
+                    new SnapshotColumn("recipe_id", LONG),
+                    new SnapshotColumn("content", BYTES))),
+            new SnapshotTable("recipe_ingredient", List.of(
+                    new SnapshotColumn("id", LONG),
+                    new SnapshotColumn("recipe_id", LONG),
+                    new SnapshotColumn("ingredient_id", LONG),
+                    new SnapshotColumn("quantity", STRING),
+                    new SnapshotColumn("notes", STRING))),
+            new SnapshotTable("inventory_item", List.of(
+                    new SnapshotColumn("id", LONG),
+                    new SnapshotColumn("ingredient_id", LONG),
+                    new SnapshotColumn("quantity", DOUBLE),
+                    new SnapshotColumn("expiration_date", TIMESTAMP),
+                    new SnapshotColumn("location", STRING),
+                    new SnapshotColumn("min_stock_level", DOUBLE),
+                    new SnapshotColumn("status", STRING))));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public SnapshotServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL Connector/J streams rows one at a time instead of buffering the whole result
+        this.streamingJdbcTemplate = new JdbcTemplate();
+        this.streamingJdbcTemplate.setDataSource(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Override
+    @Transactional
+    public long exportSnapshot(OutputStream out) {
+        SnapshotWriter writer = new SnapshotWriter(out);
+        try {
+            writer.writeInt(MAGIC);
+            writer.writeShort(VERSION);
+            writer.writeByte(TABLES.size());
+
+            long rows = 0;
+            for (SnapshotTable table : TABLES) {
+                rows += exportTable(table, writer);
+            }
+            writer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write snapshot", e);
+        }
+    }
+
+    private long exportTable(SnapshotTable table, SnapshotWriter writer) throws IOException {
+        writer.writeName(table.name());
+        writer.writeByte(table.columns().size());
+
+        long[] rows = {0};
+        RowCallbackHandler rowWriter = rs -> {
+            try {
+                writer.writeByte(ROW);
+                for (int i = 0; i < table.columns().size(); i++) {
+                    SnapshotColumnType type = table.columns().get(i).type();
+                    writer.writeValue(type, readColumn(rs, i + 1, type));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write snapshot", e);
+            }
+            rows[0]++;
+        };
+        streamingJdbcTemplate.query(table.selectSql(), rowWriter);
+
+        writer.writeByte(END_OF_TABLE);
+        return rows[0];
+    }
+
+    private Object readColumn(ResultSet rs, int index, SnapshotColumnType type) throws SQLException {
+        Object value = switch (type) {
+            case LONG -> rs.getLong(index);
+            case INT -> rs.getInt(index);
+            case DOUBLE -> rs.getDouble(index);
+            // Read as wall-clock time so no JVM time zone conversion happens on either side
+            case TIMESTAMP -> rs.getObject(index, LocalDateTime.class);
+            case STRING -> rs.getString(index);
+            case BYTES -> rs.getBytes(index);
+        };
+        return rs.wasNull() ? null : value;
+    }
+
+    @Override
+    @Transactional
+    public long importSnapshot(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Snapshot files larger than 2 GB are not supported");
+            }
+            SnapshotReader reader = new SnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            readHeader(reader);
+
+            // Children first so foreign keys are satisfied while clearing
+            for (int i = TABLES.size() - 1; i >= 0; i--) {
+                jdbcTemplate.update("DELETE FROM " + TABLES.get(i).name());
+            }
+
+            long rows = 0;
+            for (SnapshotTable table : TABLES) {
+                rows += importTable(table, reader);
+            }
+            return rows;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Snapshot file is truncated", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read snapshot " + file, e);
+        }
+    }
+
+    private void readHeader(SnapshotReader reader) {
+        if (reader.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a RecipeSphere snapshot");
+        }
+        int version = reader.readShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        int tableCount = reader.readByte();
+        if (tableCount != TABLES.size()) {
+            throw new IllegalArgumentException("Expected " + TABLES.size() + " tables in snapshot but found " + tableCount);
+        }
+    }
+
+    private long importTable(SnapshotTable table, SnapshotReader reader) {
+        String name = reader.readName();
+        int columnCount = reader.readByte();
+        if (!table.name().equals(name) || columnCount != table.columns().size()) {
+            throw new IllegalArgumentException("Unexpected snapshot section: " + name + " with " + columnCount + " columns");
+        }
+
+        String insertSql = table.insertSql();
+        int[] sqlTypes = table.columns().stream().mapToInt(column -> column.type().sqlType).toArray();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long rows = 0;
+
+        int marker;
+        while ((marker = reader.readByte()) == ROW) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = reader.readValue(table.columns().get(i).type());
+            }
+            batch.add(row);
+            rows++;
+
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(insertSql, batch, sqlTypes);
+                batch.clear();
+            }
+        }
+        if (marker != END_OF_TABLE) {
+            throw new IllegalArgumentException("Corrupt row marker in snapshot section: " + name);
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, batch, sqlTypes);
+        }
+        return rows;
+    }
+
+    record SnapshotColumn(String name, SnapshotColumnType type) {
+    }
+
+    record SnapshotTable(String name, List<SnapshotColumn> columns) {
+        String selectSql() {
+            return "SELECT " + columnList() + " FROM " + name + " ORDER BY " + columns.get(0).name();
+        }
+
+        String insertSql() {
+            String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+            return "INSERT INTO " + name + " (" + columnList() + ") VALUES (" + placeholders + ")";
+        }
+
+        private String columnList() {
+            return columns.stream().map(SnapshotColumn::name).collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package edu.recepespire.service.Impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Big-endian writer for the snapshot format. Every value is preceded by a
+ * presence byte so nullable columns round-trip; {@link SnapshotReader}
+ * mirrors each method.
+ */
+class SnapshotWriter {
+    private final DataOutputStream out;
+
+    SnapshotWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    void writeShort(int value) throws IOException {
+        out.writeShort(value);
+    }
+
+    void writeByte(int value) throws IOException {
+        out.writeByte(value);
+    }
+
+    void writeValue(SnapshotColumnType type, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        switch (type) {
+            case LONG -> out.writeLong((Long) value);
+            case INT -> out.writeInt((Integer) value);
+            case DOUBLE -> out.writeDouble((Double) value);
+            case TIMESTAMP -> {
+                // Wall-clock value, independent of the exporting host's time zone
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(dateTime.getNano());
+            }
+            case STRING -> writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+            case BYTES -> writeBytes((byte[]) value);
+        }
+    }
+
+    void writeName(String name) throws IOException {
+        writeBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -9,6 +9,7 @@ public interface IngredientService {
     Ingredient createIngredient(IngredientDTO dto);
     List<Ingredient> getAllIngredients();
     Ingredient getIngredientById(Long id);
+    List<Ingredient> getIngredientsByIds(List<Long> ids);
     Ingredient updateIngredient(Long id, IngredientDTO dto);
     void deleteIngredient(Long id);
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ public interface RecipeService {
     Recipe updateRecipe(Long id, RecipeDTO recipeDTO);
     void deleteRecipe(Long id);
     Recipe getRecipeById(Long id);
+    List<Recipe> getRecipesByIds(List<Long> ids);
     List<Recipe> getAllRecipes();
     List<Recipe> getRecipesByCategory(String category);
     List<Recipe> searchRecipes(String query);
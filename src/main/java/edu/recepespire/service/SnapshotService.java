@@ -0,0 +1,9 @@
+package edu.recepespire.service;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+public interface SnapshotService {
+    long exportSnapshot(OutputStream out);
+    long importSnapshot(Path file);
+}
@@ -0,0 +1,74 @@
+package edu.recepespire.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextConverterTest {
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    void shortTextIsStoredPlain() {
+        String text = "Boil the pasta.";
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+
+        assertEquals(0, stored[0]);
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length + 1, stored.length);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void textJustBelowThresholdIsStoredPlain() {
+        String text = "a".repeat(CompressedTextConverter.COMPRESSION_THRESHOLD - 1);
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+
+        assertEquals(0, stored[0]);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void longTextIsCompressed() {
+        String text = "Stir the sauce and simmer for ten minutes. ".repeat(200);
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+
+        assertEquals(1, stored[0]);
+        assertTrue(stored.length < text.length());
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void textAtThresholdIsCompressed() {
+        String text = "a".repeat(CompressedTextConverter.COMPRESSION_THRESHOLD);
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+
+        assertEquals(1, stored[0]);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void multibyteTextRoundTripsBelowAndAboveThreshold() {
+        String shortText = "කිරිබත් 🍚 crème brûlée";
+        String longText = shortText.repeat(100);
+        assertTrue(longText.getBytes(StandardCharsets.UTF_8).length >= CompressedTextConverter.COMPRESSION_THRESHOLD);
+
+        assertEquals(shortText, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(shortText)));
+        assertEquals(longText, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(longText)));
+    }
+
+    @Test
+    void emptyTextRoundTrips() {
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+    }
+
+    @Test
+    void nullRoundTrips() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
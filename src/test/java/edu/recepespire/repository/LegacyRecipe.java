@@ -0,0 +1,36 @@
+package edu.recepespire.repository;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * The recipe row as it was mapped before instructions moved to their own
+ * table: same table, with the text as a plain eagerly read column. Only
+ * used by {@link RecipeScanBenchmarkTest} to measure the old behaviour.
+ */
+@Entity
+@Table(name = "recipe")
+@Getter @Setter
+public class LegacyRecipe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Column(columnDefinition = "CLOB")
+    private String instructions;
+
+    private String category;
+    private Integer prepTime;
+    private Integer cookTime;
+    private Integer servings;
+    private Date createdAt;
+    private Date updatedAt;
+}
@@ -0,0 +1,137 @@
+package edu.recepespire.repository;
+
+import edu.recepespire.entity.Recipe;
+import edu.recepespire.entity.RecipeInstructions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares list scans before and after instructions moved off the recipe
+ * row. "Before" scans {@link LegacyRecipe}, the old mapping of the same
+ * table with instructions as a plain column. "After" is the current
+ * findAll / findByCategory, which leave the text in recipe_instructions.
+ * Both read the same seeded rows. Results are printed; the assertions only
+ * check that the scans stopped allocating the instructions text.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class RecipeScanBenchmarkTest {
+    private static final int RECIPES = 500;
+    private static final int INSTRUCTIONS_LENGTH = 16 * 1024;
+    private static final String CATEGORY = "Dinner";
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeInstructionsRepository recipeInstructionsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < RECIPES; i++) {
+            String instructions = instructions(i);
+
+            LegacyRecipe legacy = new LegacyRecipe();
+            legacy.setTitle("Recipe " + i);
+            legacy.setDescription("A short description of recipe " + i);
+            legacy.setCategory(i % 2 == 0 ? CATEGORY : "Lunch");
+            legacy.setInstructions(instructions);
+            legacy.setCreatedAt(new Date());
+            legacy.setUpdatedAt(new Date());
+            entityManager.persist(legacy);
+
+            recipeInstructionsRepository.save(RecipeInstructions.builder()
+                    .recipe(entityManager.getEntityManager().getReference(Recipe.class, legacy.getId()))
+                    .content(instructions)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllNoLongerLoadsInstructions() {
+        Scan before = measure(() -> entityManager.getEntityManager()
+                .createQuery("SELECT r FROM LegacyRecipe r", LegacyRecipe.class)
+                .getResultList());
+        Scan after = measure(() -> recipeRepository.findAll());
+
+        report("findAll", before, after);
+        assertEquals(RECIPES, before.rows());
+        assertEquals(RECIPES, after.rows());
+        assertTrue(after.allocatedBytes() < before.allocatedBytes());
+    }
+
+    @Test
+    void findByCategoryNoLongerLoadsInstructions() {
+        Scan before = measure(() -> entityManager.getEntityManager()
+                .createQuery("SELECT r FROM LegacyRecipe r WHERE r.category = :category", LegacyRecipe.class)
+                .setParameter("category", CATEGORY)
+                .getResultList());
+        Scan after = measure(() -> recipeRepository.findByCategory(CATEGORY));
+
+        report("findByCategory", before, after);
+        assertEquals(RECIPES / 2, before.rows());
+        assertEquals(RECIPES / 2, after.rows());
+        assertTrue(after.allocatedBytes() < before.allocatedBytes());
+    }
+
+    private Scan measure(Supplier<List<?>> scan) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            scan.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long rows = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            rows = scan.get().size();
+            entityManager.clear();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Scan(rows, nanos / MEASURED_RUNS, allocated / MEASURED_RUNS);
+    }
+
+    private void report(String query, Scan before, Scan after) {
+        System.out.printf("%s over %d rows: before %,.0f rows/s, %,d bytes/scan; after %,.0f rows/s, %,d bytes/scan%n",
+                query, after.rows(), before.rowsPerSecond(), before.allocatedBytes(),
+                after.rowsPerSecond(), after.allocatedBytes());
+    }
+
+    private static String instructions(int seed) {
+        StringBuilder text = new StringBuilder(INSTRUCTIONS_LENGTH);
+        int step = 1;
+        while (text.length() < INSTRUCTIONS_LENGTH) {
+            text.append("Step ").append(step++).append(" of recipe ").append(seed)
+                    .append(": stir, season and simmer until done. ");
+        }
+        return text.toString();
+    }
+
+    private record Scan(long rows, long nanosPerScan, long allocatedBytes) {
+        double rowsPerSecond() {
+            return rows * 1_000_000_000.0 / Math.max(nanosPerScan, 1);
+        }
+    }
+}
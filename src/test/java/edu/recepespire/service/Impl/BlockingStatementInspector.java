@@ -0,0 +1,40 @@
+package edu.recepespire.service.Impl;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets a test hold every SQL statement at the point Hibernate prepares it,
+ * so loads that hit the database stay in flight while a burst of callers
+ * piles up behind them. Does nothing unless armed.
+ */
+public class BlockingStatementInspector implements StatementInspector {
+    private static volatile Gate gate;
+
+    static void arm(CountDownLatch loading, CountDownLatch release) {
+        gate = new Gate(loading, release);
+    }
+
+    static void disarm() {
+        gate = null;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Gate current = gate;
+        if (current != null) {
+            current.loading().countDown();
+            try {
+                current.release().await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+
+    private record Gate(CountDownLatch loading, CountDownLatch release) {
+    }
+}
@@ -0,0 +1,65 @@
+package edu.recepespire.service.Impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires a burst of concurrent callers. The loaders under test are expected
+ * to count down {@code loading} and then block on {@code release}. Every
+ * caller signals just before it calls in, and the loaders are released a
+ * grace period after the last signal, so all callers overlap with the
+ * in-flight loads.
+ */
+final class ConcurrentBurst {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final long GRACE_MILLIS = 200;
+
+    private ConcurrentBurst() {
+    }
+
+    /** Runs {@code task} from {@code callers} threads; see {@link #run(List, CountDownLatch, CountDownLatch)}. */
+    static List<Object> run(int callers, Callable<?> task, CountDownLatch loading, CountDownLatch release)
+            throws InterruptedException {
+        return run(Collections.nCopies(callers, task), loading, release);
+    }
+
+    /** Runs each task on its own thread and returns each result, or the exception it threw. */
+    static List<Object> run(List<? extends Callable<?>> tasks, CountDownLatch loading, CountDownLatch release)
+            throws InterruptedException {
+        List<Object> outcomes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(tasks.size());
+        List<Thread> threads = new ArrayList<>();
+        for (Callable<?> task : tasks) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    arrived.countDown();
+                    outcomes.add(task.call());
+                } catch (Exception e) {
+                    outcomes.add(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        assertTrue(loading.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "loaders were never called");
+        assertTrue(arrived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "callers never started");
+        // Gives the last callers time to get from the signal to the shared in-flight load
+        Thread.sleep(GRACE_MILLIS);
+        release.countDown();
+
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+        return outcomes;
+    }
+}
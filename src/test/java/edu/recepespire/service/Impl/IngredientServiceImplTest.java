@@ -0,0 +1,52 @@
+package edu.recepespire.service.Impl;
+
+import edu.recepespire.entity.Ingredient;
+import edu.recepespire.repository.IngredientRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientServiceImplTest {
+    private static final int CALLERS = 32;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private IngredientServiceImpl ingredientService;
+
+    @Test
+    void concurrentBurstForOneIngredientRunsOneQuery() throws InterruptedException {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setId(7L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ingredientRepository.findById(7L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(ingredient);
+        });
+
+        List<Object> outcomes = ConcurrentBurst.run(CALLERS, () -> ingredientService.getIngredientById(7L), loading, release);
+
+        verify(ingredientRepository, times(1)).findById(7L);
+        verify(entityManager).detach(ingredient);
+        assertEquals(CALLERS, outcomes.size());
+        outcomes.forEach(outcome -> assertSame(ingredient, outcome));
+    }
+}
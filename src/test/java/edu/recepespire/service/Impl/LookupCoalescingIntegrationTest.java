@@ -0,0 +1,157 @@
+package edu.recepespire.service.Impl;
+
+import edu.recepespire.entity.Ingredient;
+import edu.recepespire.entity.Recipe;
+import edu.recepespire.entity.RecipeIngredient;
+import edu.recepespire.entity.RecipeInstructions;
+import edu.recepespire.repository.IngredientRepository;
+import edu.recepespire.repository.RecipeInstructionsRepository;
+import edu.recepespire.repository.RecipeRepository;
+import edu.recepespire.service.IngredientService;
+import edu.recepespire.service.RecipeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bursts of concurrent lookups over several ids against a real database,
+ * counting the statements Hibernate actually prepares.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=edu.recepespire.service.Impl.BlockingStatementInspector"})
+@Import({RecipeServiceImpl.class, IngredientServiceImpl.class})
+// Callers run on their own threads, so seed data must be committed rather than held in a test transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LookupCoalescingIntegrationTest {
+    private static final int IDS = 3;
+    private static final int CALLERS_PER_ID = 10;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeInstructionsRepository recipeInstructionsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> recipeIds = new ArrayList<>();
+    private final List<Long> ingredientIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < IDS; i++) {
+            Ingredient ingredient = new Ingredient();
+            ingredient.setName("Ingredient " + i);
+            ingredient = ingredientRepository.save(ingredient);
+            ingredientIds.add(ingredient.getId());
+
+            Recipe recipe = new Recipe();
+            recipe.setTitle("Recipe " + i);
+            recipe.getIngredients().add(RecipeIngredient.builder()
+                    .recipe(recipe)
+                    .ingredient(ingredient)
+                    .quantity("1")
+                    .build());
+            recipe = recipeRepository.save(recipe);
+            recipeIds.add(recipe.getId());
+            recipeInstructionsRepository.save(RecipeInstructions.builder()
+                    .recipe(recipe)
+                    .content("Cook recipe " + i)
+                    .build());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        BlockingStatementInspector.disarm();
+        recipeInstructionsRepository.deleteAll();
+        recipeRepository.deleteAll();
+        ingredientRepository.deleteAll();
+    }
+
+    @Test
+    void recipeBurstOverSeveralIdsRunsOneLoadPerId() throws InterruptedException {
+        statistics.clear();
+        recipeService.getRecipeById(recipeIds.get(0));
+        long statementsPerLoad = statistics.getPrepareStatementCount();
+        assertTrue(statementsPerLoad > 0);
+
+        List<Callable<Recipe>> tasks = new ArrayList<>();
+        for (Long id : recipeIds) {
+            for (int i = 0; i < CALLERS_PER_ID; i++) {
+                tasks.add(() -> recipeService.getRecipeById(id));
+            }
+        }
+        List<Object> outcomes = burst(tasks);
+
+        assertEquals(statementsPerLoad * IDS, statistics.getPrepareStatementCount());
+        assertEquals(IDS * CALLERS_PER_ID, outcomes.size());
+        for (Object outcome : outcomes) {
+            Recipe recipe = assertInstanceOf(Recipe.class, outcome);
+            assertEquals(1, recipe.getIngredients().size());
+            assertNotNull(recipe.getInstructions());
+        }
+    }
+
+    @Test
+    void ingredientBurstOverSeveralIdsRunsOneLoadPerId() throws InterruptedException {
+        statistics.clear();
+        ingredientService.getIngredientById(ingredientIds.get(0));
+        long statementsPerLoad = statistics.getPrepareStatementCount();
+        assertTrue(statementsPerLoad > 0);
+
+        List<Callable<Ingredient>> tasks = new ArrayList<>();
+        for (Long id : ingredientIds) {
+            for (int i = 0; i < CALLERS_PER_ID; i++) {
+                tasks.add(() -> ingredientService.getIngredientById(id));
+            }
+        }
+        List<Object> outcomes = burst(tasks);
+
+        assertEquals(statementsPerLoad * IDS, statistics.getPrepareStatementCount());
+        assertEquals(IDS * CALLERS_PER_ID, outcomes.size());
+        outcomes.forEach(outcome -> assertInstanceOf(Ingredient.class, outcome));
+    }
+
+    // Each id's leader blocks on its first statement until every caller has joined a load
+    private List<Object> burst(List<? extends Callable<?>> tasks) throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(IDS);
+        CountDownLatch release = new CountDownLatch(1);
+        statistics.clear();
+        BlockingStatementInspector.arm(loading, release);
+        try {
+            return ConcurrentBurst.run(tasks, loading, release);
+        } finally {
+            BlockingStatementInspector.disarm();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package edu.recepespire.service.Impl;
+
+import edu.recepespire.entity.Recipe;
+import edu.recepespire.repository.IngredientRepository;
+import edu.recepespire.repository.RecipeInstructionsRepository;
+import edu.recepespire.repository.RecipeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeServiceImplTest {
+    private static final int CALLERS = 32;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private RecipeInstructionsRepository recipeInstructionsRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private RecipeServiceImpl recipeService;
+
+    @Test
+    void concurrentBurstForOneRecipeRunsOneQuery() throws InterruptedException {
+        Recipe recipe = new Recipe();
+        recipe.setId(1L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(recipeRepository.findWithIngredientsById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(recipe);
+        });
+
+        List<Object> outcomes = ConcurrentBurst.run(CALLERS, () -> recipeService.getRecipeById(1L), loading, release);
+
+        verify(recipeRepository, times(1)).findWithIngredientsById(1L);
+        verify(recipeInstructionsRepository, times(1)).findById(1L);
+        verify(entityManager).detach(recipe);
+        assertEquals(CALLERS, outcomes.size());
+        outcomes.forEach(outcome -> assertSame(recipe, outcome));
+    }
+}
@@ -0,0 +1,69 @@
+package edu.recepespire.service.Impl;
+
+import edu.recepespire.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void concurrentCallersShareOneLoad() throws InterruptedException {
+        List<Object> outcomes = ConcurrentBurst.run(CALLERS,
+                () -> singleFlight.load(1L, key -> blockingLoad("recipe-" + key)), loading, release);
+
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS, outcomes.size());
+        outcomes.forEach(outcome -> assertEquals("recipe-1", outcome));
+    }
+
+    @Test
+    void loaderExceptionIsRethrownToEveryWaitingCaller() throws InterruptedException {
+        ResourceNotFoundException failure = new ResourceNotFoundException("Recipe not found with id: 1");
+
+        List<Object> outcomes = ConcurrentBurst.run(CALLERS,
+                () -> singleFlight.load(1L, key -> {
+                    blockingLoad(null);
+                    throw failure;
+                }), loading, release);
+
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS, outcomes.size());
+        outcomes.forEach(outcome -> assertSame(failure, outcome));
+    }
+
+    @Test
+    void completedLoadIsNotCached() {
+        assertEquals("first", singleFlight.load(1L, key -> "first"));
+        assertEquals("second", singleFlight.load(1L, key -> "second"));
+    }
+
+    @Test
+    void failedLoadDoesNotPoisonLaterCalls() {
+        assertThrows(ResourceNotFoundException.class, () -> singleFlight.load(1L, key -> {
+            throw new ResourceNotFoundException("missing");
+        }));
+        assertEquals("found", singleFlight.load(1L, key -> "found"));
+    }
+
+    private String blockingLoad(String value) {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
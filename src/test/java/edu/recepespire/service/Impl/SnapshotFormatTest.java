@@ -0,0 +1,71 @@
+package edu.recepespire.service.Impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFormatTest {
+
+    @Test
+    void everyColumnTypeRoundTripsWithValuesAndNulls() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 31, 2, 30, 15, 123_456_000);
+        byte[] content = {0, 'B', 'o', 'i', 'l'};
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(bytes);
+        writer.writeValue(SnapshotColumnType.LONG, Long.MAX_VALUE);
+        writer.writeValue(SnapshotColumnType.INT, -42);
+        writer.writeValue(SnapshotColumnType.DOUBLE, 2.5);
+        writer.writeValue(SnapshotColumnType.TIMESTAMP, createdAt);
+        writer.writeValue(SnapshotColumnType.STRING, "Kiribath 🍚");
+        writer.writeValue(SnapshotColumnType.BYTES, content);
+        for (SnapshotColumnType type : SnapshotColumnType.values()) {
+            writer.writeValue(type, null);
+        }
+        writer.flush();
+
+        SnapshotReader reader = new SnapshotReader(ByteBuffer.wrap(bytes.toByteArray()));
+        assertEquals(Long.MAX_VALUE, reader.readValue(SnapshotColumnType.LONG));
+        assertEquals(-42, reader.readValue(SnapshotColumnType.INT));
+        assertEquals(2.5, reader.readValue(SnapshotColumnType.DOUBLE));
+        assertEquals(createdAt, reader.readValue(SnapshotColumnType.TIMESTAMP));
+        assertEquals("Kiribath 🍚", reader.readValue(SnapshotColumnType.STRING));
+        assertArrayEquals(content, (byte[]) reader.readValue(SnapshotColumnType.BYTES));
+        for (SnapshotColumnType type : SnapshotColumnType.values()) {
+            assertNull(reader.readValue(type), type.name());
+        }
+    }
+
+    @Test
+    void headerFieldsAndNamesRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(bytes);
+        writer.writeInt(SnapshotServiceImpl.MAGIC);
+        writer.writeShort(SnapshotServiceImpl.VERSION);
+        writer.writeByte(SnapshotServiceImpl.END_OF_TABLE);
+        writer.writeName("recipe_instructions");
+        writer.flush();
+
+        SnapshotReader reader = new SnapshotReader(ByteBuffer.wrap(bytes.toByteArray()));
+        assertEquals(SnapshotServiceImpl.MAGIC, reader.readInt());
+        assertEquals(SnapshotServiceImpl.VERSION, reader.readShort());
+        assertEquals(SnapshotServiceImpl.END_OF_TABLE, reader.readByte());
+        assertEquals("recipe_instructions", reader.readName());
+    }
+
+    @Test
+    void corruptLengthPrefixIsRejectedBeforeAllocating() {
+        for (int length : new int[]{-1, Integer.MAX_VALUE, 4}) {
+            ByteBuffer buffer = ByteBuffer.allocate(7).putInt(length).put(new byte[]{'a', 'b', 'c'}).flip();
+            SnapshotReader reader = new SnapshotReader(buffer);
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::readName);
+            assertTrue(e.getMessage().startsWith("Snapshot is truncated or corrupt"));
+        }
+    }
+}
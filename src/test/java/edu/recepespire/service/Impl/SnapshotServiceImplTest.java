@@ -0,0 +1,149 @@
+package edu.recepespire.service.Impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotServiceImplTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<String> sqlCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+    @TempDir
+    private Path tempDir;
+
+    private SnapshotServiceImpl snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new SnapshotServiceImpl(jdbcTemplate);
+    }
+
+    @Test
+    void importClearsTablesAndInsertsRowsWithIdsAndNulls() throws IOException {
+        Object[] ingredient = {1L, "Salt", null, "g", null};
+        Object[] recipe = {5L, "Rice", null, null, null, 20, null,
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000), null};
+        Object[] instructions = {5L, new byte[]{0, 'B', 'o', 'i', 'l'}};
+        Path file = writeSnapshot(SnapshotServiceImpl.VERSION, Map.of(
+                "ingredient", List.<Object[]>of(ingredient),
+                "recipe", List.<Object[]>of(recipe),
+                "recipe_instructions", List.<Object[]>of(instructions)));
+
+        long rows = snapshotService.importSnapshot(file);
+
+        assertEquals(3, rows);
+        InOrder deletes = inOrder(jdbcTemplate);
+        deletes.verify(jdbcTemplate).update("DELETE FROM inventory_item");
+        deletes.verify(jdbcTemplate).update("DELETE FROM recipe_ingredient");
+        deletes.verify(jdbcTemplate).update("DELETE FROM recipe_instructions");
+        deletes.verify(jdbcTemplate).update("DELETE FROM recipe");
+        deletes.verify(jdbcTemplate).update("DELETE FROM ingredient");
+
+        // Empty sections are read up to their end marker without inserting anything
+        verify(jdbcTemplate, times(3)).batchUpdate(sqlCaptor.capture(), rowsCaptor.capture(), any(int[].class));
+        assertEquals(List.of(
+                "INSERT INTO ingredient (id, name, category, unit, calories_per_unit) VALUES (?, ?, ?, ?, ?)",
+                "INSERT INTO recipe (id, title, description, category, prep_time, cook_time, servings, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "INSERT INTO recipe_instructions (recipe_id, content) VALUES (?, ?)"), sqlCaptor.getAllValues());
+        assertArrayEquals(ingredient, rowsCaptor.getAllValues().get(0).get(0));
+        assertArrayEquals(recipe, rowsCaptor.getAllValues().get(1).get(0));
+        assertArrayEquals(instructions, rowsCaptor.getAllValues().get(2).get(0));
+    }
+
+    @Test
+    void importFlushesFullBatches() throws IOException {
+        List<Object[]> ingredients = new ArrayList<>();
+        for (long id = 1; id <= 1001; id++) {
+            ingredients.add(new Object[]{id, "Ingredient " + id, null, null, null});
+        }
+        Path file = writeSnapshot(SnapshotServiceImpl.VERSION, Map.of("ingredient", ingredients));
+
+        assertEquals(1001, snapshotService.importSnapshot(file));
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO ingredient "), anyList(), any(int[].class));
+    }
+
+    @Test
+    void importRejectsUnsupportedVersion() throws IOException {
+        Path file = writeSnapshot(SnapshotServiceImpl.VERSION + 1, Map.of());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> snapshotService.importSnapshot(file));
+        assertTrue(e.getMessage().contains("version"));
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    void importRejectsFileWithoutMagic() throws IOException {
+        Path file = tempDir.resolve("not-a-snapshot");
+        Files.writeString(file, "id,name\n1,Salt\n");
+
+        assertThrows(IllegalArgumentException.class, () -> snapshotService.importSnapshot(file));
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    void importRejectsTruncatedFile() throws IOException {
+        Path complete = writeSnapshot(SnapshotServiceImpl.VERSION, Map.of(
+                "ingredient", List.<Object[]>of(new Object[]{1L, "Salt", null, "g", null})));
+        byte[] bytes = Files.readAllBytes(complete);
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> snapshotService.importSnapshot(truncated));
+        assertTrue(e.getMessage().contains("truncated"));
+    }
+
+    private Path writeSnapshot(int version, Map<String, List<Object[]>> rowsByTable) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(bytes);
+        writer.writeInt(SnapshotServiceImpl.MAGIC);
+        writer.writeShort(version);
+        writer.writeByte(SnapshotServiceImpl.TABLES.size());
+        for (SnapshotServiceImpl.SnapshotTable table : SnapshotServiceImpl.TABLES) {
+            writer.writeName(table.name());
+            writer.writeByte(table.columns().size());
+            for (Object[] row : rowsByTable.getOrDefault(table.name(), List.of())) {
+                writer.writeByte(SnapshotServiceImpl.ROW);
+                for (int i = 0; i < row.length; i++) {
+                    writer.writeValue(table.columns().get(i).type(), row[i]);
+                }
+            }
+            writer.writeByte(SnapshotServiceImpl.END_OF_TABLE);
+        }
+        writer.flush();
+
+        Path file = tempDir.resolve("recipesphere.snapshot");
+        Files.write(file, bytes.toByteArray());
+        return file;
+    }
+}